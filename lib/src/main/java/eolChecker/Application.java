@@ -1,5 +1,6 @@
 package eolChecker;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
@@ -13,43 +14,108 @@ import org.slf4j.LoggerFactory;
 public class Application {
 	private static final Logger logger = LoggerFactory.getLogger(Application.class);
 
+	private static Properties config = ConfigLoader.loadProperties("config.properties");
+	private static Properties productMappings = ConfigLoader.loadProperties("mapping.conf");
+
+	private static Duration scanTimeout = getDuration("scan.timeout.seconds", 3600);
+	private static Duration gradleTimeout = getDuration("gradle.timeout.seconds", 600);
+	private static Duration httpTimeout = getDuration("http.timeout.seconds", 30);
+
 	private static GradleProjectManager depExtractor = new GradleProjectManager();
 	private static OutputManager outputManager = new OutputManager();
+	private static RiskSummaryAggregator riskSummary = new RiskSummaryAggregator();
+	private static DeltaManager deltaManager = new DeltaManager();
+
+	// the budget starts at startup and is shared with the HTTP fetchers
+	private static ScanDeadline deadline = new ScanDeadline(scanTimeout);
 
-	private static EOLDataFetcher apiEOLFetcher = new EndOfLifeApiDataFetcher();
+	private static EOLDataFetcher apiEOLFetcher = new EndOfLifeApiDataFetcher(httpTimeout, deadline);
 	private static EOLProcessor eolProcessor = new EOLProcessor(apiEOLFetcher);
-	private static VersionFetcher apiVersionFetcher = new MavenApiVersionFetcher();
+	private static VersionFetcher apiVersionFetcher = new MavenApiVersionFetcher(httpTimeout, deadline);
 	private static List<Dependency> dependencies = new ArrayList<Dependency>();
 
-	private static Properties config = ConfigLoader.loadProperties("config.properties");
-	private static Properties productMappings = ConfigLoader.loadProperties("mapping.conf");
-
 	public static void main(String[] args) {
 		String repoPath = config.getProperty("repo.path", "").trim();
 		logger.info("Using Repository Path: {}", repoPath);
 
 		Optional.ofNullable(depExtractor.getGradleProjects(repoPath)).orElse(List.of()).stream()
 				.filter(Objects::nonNull).forEach(gradleProject -> {
-					Optional.ofNullable(depExtractor.getFirstLevelDependencies(gradleProject)).orElse(Set.of()).stream()
-							.filter(Objects::nonNull).forEach(lib -> {
-								Dependency dependency = new Dependency(lib, gradleProject.getAbsolutePath());
-								dependency.setProduct((String) productMappings.get(dependency.getGroup()));
-
-								long releaseDateTimeStamp = apiVersionFetcher.getReleaseDate(dependency);
-								String latestVersion = apiVersionFetcher.getLatestVersion(dependency.getGroup(),
-										dependency.getArtifact());
-								long latestReleaseDateTimeStamp = apiVersionFetcher.getReleaseDate(dependency,
-										latestVersion);
-
-								dependency.setEOLDate(eolProcessor.getEOLDate(dependency));
-								dependency.setReleaseDateFromTimestamp(releaseDateTimeStamp);
-								dependency.setLatestVersion(latestVersion);
-								dependency.setLatestReleaseDateFromTimestamp(latestReleaseDateTimeStamp);
-								dependencies.add(dependency);
-							});
+					if (deadline.isExpired()) {
+						addResult(Dependency.unresolved(gradleProject.getAbsolutePath()));
+						return;
+					}
+
+					Set<String> libs = depExtractor.getFirstLevelDependencies(gradleProject,
+							deadline.cap(gradleTimeout));
+					if (libs == null) {
+						addResult(Dependency.unresolved(gradleProject.getAbsolutePath()));
+						return;
+					}
+
+					libs.stream().filter(Objects::nonNull).forEach(lib -> {
+						Dependency dependency = new Dependency(lib, gradleProject.getAbsolutePath());
+						dependency.setProduct((String) productMappings.get(dependency.getGroup()));
+
+						// keep the coordinates but skip the lookups once the budget is spent or
+						// when the version is unknown
+						if (deadline.isExpired() || !dependency.hasVersion()) {
+							dependency.setStatus(Dependency.Status.UNRESOLVED);
+							addResult(dependency);
+							return;
+						}
+
+						long releaseDateTimeStamp = apiVersionFetcher.getReleaseDate(dependency);
+						String latestVersion = apiVersionFetcher.getLatestVersion(dependency.getGroup(),
+								dependency.getArtifact());
+						long latestReleaseDateTimeStamp = apiVersionFetcher.getReleaseDate(dependency,
+								latestVersion);
+
+						dependency.setEOLDate(eolProcessor.getEOLDate(dependency));
+						dependency.setReleaseDateFromTimestamp(releaseDateTimeStamp);
+						dependency.setLatestVersion(latestVersion);
+						dependency.setLatestReleaseDateFromTimestamp(latestReleaseDateTimeStamp);
+						// lookups cut short by the budget leave the row incomplete
+						if (deadline.isExpired()) {
+							dependency.setStatus(Dependency.Status.UNRESOLVED);
+						}
+						addResult(dependency);
+					});
 
 				});
+
+		if (deadline.isExpired()) {
+			logger.warn("Scan budget of {}s exhausted, saving partial results", scanTimeout.toSeconds());
+		}
 		outputManager.saveToCSV(dependencies, "eol_summary.csv");
+		riskSummary.saveToCSV("eol_risk_summary.csv");
+
+		if (Boolean.parseBoolean(config.getProperty("delta.enabled", "false").trim())) {
+			deltaManager.saveDelta(dependencies, config.getProperty("delta.snapshot.path", "eol_snapshot.bin").trim(),
+					"eol_delta.csv");
+		}
+	}
+
+	private static void addResult(Dependency dependency) {
+		dependencies.add(dependency);
+		riskSummary.record(dependency);
+	}
+
+	/**
+	 * Reads a timeout in seconds. Zero would mean "no timeout" (or be rejected)
+	 * in the HTTP clients, so only values from 1s to Integer.MAX_VALUE seconds are
+	 * accepted.
+	 */
+	private static Duration getDuration(String key, long defaultSeconds) {
+		String value = config.getProperty(key, String.valueOf(defaultSeconds)).trim();
+		try {
+			long seconds = Long.parseLong(value);
+			if (seconds > 0 && seconds <= Integer.MAX_VALUE) {
+				return Duration.ofSeconds(seconds);
+			}
+		} catch (NumberFormatException e) {
+		}
+		logger.warn("Invalid value '{}' for {}, using {}s", value, key, defaultSeconds);
+		return Duration.ofSeconds(defaultSeconds);
 	}
 
 }
\ No newline at end of file
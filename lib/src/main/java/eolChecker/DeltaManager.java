@@ -0,0 +1,374 @@
+package eolChecker;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Writer;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Compares the current results with the previous scan and writes a delta report.
+ *
+ * The previous results are kept in a binary snapshot sorted by repository and
+ * GAV. The delta is a single sort-merge pass streaming the snapshot from disk
+ * against the sorted current results, while the new snapshot is written
+ * alongside, so the previous run is never loaded in memory.
+ *
+ * A repository that could not be extracted in this run (its placeholder row) is
+ * reported once as REPOSITORY_UNRESOLVED and its previous entries are carried
+ * over to the new snapshot unchanged, so a timeout produces no false removals
+ * now nor false additions on the next run. Likewise a dependency left
+ * unresolved is not reported as a status change and keeps its previous entry.
+ */
+public class DeltaManager {
+
+	private static final Logger logger = LoggerFactory.getLogger(DeltaManager.class);
+
+	private static final int MAGIC = 0x454f4c53; // "EOLS"
+	private static final int FORMAT_VERSION = 1;
+
+	public enum Change {
+		ADDED, REMOVED, VERSION_CHANGED, STATUS_CHANGED, REPOSITORY_UNRESOLVED
+	}
+
+	/**
+	 * Saves the current results as the new snapshot and writes the changes since
+	 * the previous snapshot. A missing snapshot is treated as an empty previous
+	 * scan, an unreadable one is moved aside and replaced.
+	 */
+	public void saveDelta(List<Dependency> dependencies, String snapshotPath, String deltaPath) {
+		Path snapshot = Paths.get(snapshotPath);
+		Path newSnapshot = Paths.get(snapshotPath + ".tmp");
+
+		Iterator<Entry> current = dependencies.stream().map(Entry::new).sorted(Entry.ORDER).iterator();
+		boolean previousUnreadable;
+
+		try (SnapshotReader previous = new SnapshotReader(snapshot);
+				DataOutputStream snapshotOut = new DataOutputStream(
+						new BufferedOutputStream(Files.newOutputStream(newSnapshot)));
+				DeltaWriter delta = new DeltaWriter(new FileWriter(deltaPath))) {
+
+			snapshotOut.writeInt(MAGIC);
+			snapshotOut.writeInt(FORMAT_VERSION);
+
+			Entry before = previous.next();
+			Entry after = nextDistinct(current, null);
+			// the placeholder sorts before the other entries of its repository
+			String unresolvedRepository = null;
+			while (before != null || after != null) {
+				int order = before == null ? 1 : after == null ? -1 : Entry.ORDER.compare(before, after);
+				if (order < 0) {
+					if (before.repository.equals(unresolvedRepository)) {
+						before.write(snapshotOut);
+					} else {
+						delta.change(Change.REMOVED, before, null);
+					}
+					before = previous.next();
+				} else if (order > 0) {
+					if (after.isRepositoryPlaceholder()) {
+						delta.change(Change.REPOSITORY_UNRESOLVED, null, after);
+						unresolvedRepository = after.repository;
+					} else {
+						delta.change(Change.ADDED, null, after);
+						after.write(snapshotOut);
+					}
+					after = nextDistinct(current, after);
+				} else {
+					if (after.status == Dependency.Status.UNRESOLVED) {
+						// lookups were skipped, keep the last known state for the next run
+						before.write(snapshotOut);
+					} else {
+						if (!before.hasSameStatus(after)) {
+							delta.change(Change.STATUS_CHANGED, before, after);
+						}
+						after.write(snapshotOut);
+					}
+					before = previous.next();
+					after = nextDistinct(current, after);
+				}
+			}
+			snapshotOut.writeBoolean(false);
+			delta.flushPending();
+			previousUnreadable = previous.isUnreadable();
+
+			logger.info("Delta since previous scan saved to: {} ({} changes)", deltaPath, delta.count);
+		} catch (IOException e) {
+			logger.error("ERROR: Failed to compute delta report - {}", e.getMessage());
+			try {
+				Files.deleteIfExists(newSnapshot);
+			} catch (IOException ignored) {
+			}
+			return;
+		}
+
+		try {
+			// keep the unreadable snapshot for inspection rather than losing it
+			if (previousUnreadable) {
+				Path unreadable = Paths.get(snapshotPath + ".unreadable");
+				Files.move(snapshot, unreadable, StandardCopyOption.REPLACE_EXISTING);
+				logger.warn("Moved unreadable snapshot to {}", unreadable);
+			}
+			try {
+				Files.move(newSnapshot, snapshot, StandardCopyOption.REPLACE_EXISTING,
+						StandardCopyOption.ATOMIC_MOVE);
+			} catch (AtomicMoveNotSupportedException e) {
+				Files.move(newSnapshot, snapshot, StandardCopyOption.REPLACE_EXISTING);
+			}
+		} catch (IOException e) {
+			logger.error("ERROR: Failed to replace snapshot {} - {}", snapshotPath, e.getMessage());
+		}
+	}
+
+	/**
+	 * Skips duplicate keys so the snapshot holds each repository and GAV once.
+	 */
+	private Entry nextDistinct(Iterator<Entry> entries, Entry last) {
+		while (entries.hasNext()) {
+			Entry entry = entries.next();
+			if (last == null || Entry.ORDER.compare(last, entry) != 0) {
+				return entry;
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * One snapshot row. The key is repository, group, artifact and version; the
+	 * past EOL flag and resolution status are compared to detect status changes.
+	 */
+	private static class Entry {
+
+		static final Comparator<Entry> ORDER = Comparator.comparing((Entry entry) -> entry.repository)
+				.thenComparing(entry -> entry.group).thenComparing(entry -> entry.artifact)
+				.thenComparing(entry -> entry.version);
+
+		final String repository;
+		final String group;
+		final String artifact;
+		final String version;
+		final Boolean pastEOL;
+		final Dependency.Status status;
+
+		Entry(Dependency dependency) {
+			this(Objects.toString(dependency.getRepoName(), ""), Objects.toString(dependency.getGroup(), ""),
+					Objects.toString(dependency.getArtifact(), ""), Objects.toString(dependency.getVersion(), ""),
+					dependency.getIsPastEOL(), dependency.getStatus());
+		}
+
+		Entry(String repository, String group, String artifact, String version, Boolean pastEOL,
+				Dependency.Status status) {
+			this.repository = repository;
+			this.group = group;
+			this.artifact = artifact;
+			this.version = version;
+			this.pastEOL = pastEOL;
+			this.status = status;
+		}
+
+		/**
+		 * The row standing for a whole repository that could not be extracted, see
+		 * {@link Dependency#unresolved(String)}.
+		 */
+		boolean isRepositoryPlaceholder() {
+			return status == Dependency.Status.UNRESOLVED && group.isEmpty() && artifact.isEmpty();
+		}
+
+		boolean isSameLibrary(Entry other) {
+			return repository.equals(other.repository) && group.equals(other.group)
+					&& artifact.equals(other.artifact);
+		}
+
+		boolean hasSameStatus(Entry other) {
+			return Objects.equals(pastEOL, other.pastEOL) && status == other.status;
+		}
+
+		void write(DataOutputStream out) throws IOException {
+			out.writeBoolean(true);
+			out.writeUTF(repository);
+			out.writeUTF(group);
+			out.writeUTF(artifact);
+			out.writeUTF(version);
+			out.writeByte(pastEOL == null ? -1 : pastEOL ? 1 : 0);
+			out.writeByte(status.ordinal());
+		}
+
+		static Entry read(DataInputStream in) throws IOException {
+			if (!in.readBoolean()) {
+				return null;
+			}
+			String repository = in.readUTF();
+			String group = in.readUTF();
+			String artifact = in.readUTF();
+			String version = in.readUTF();
+			byte pastEOL = in.readByte();
+			byte status = in.readByte();
+			if (pastEOL < -1 || pastEOL > 1 || status < 0 || status >= Dependency.Status.values().length) {
+				throw new IOException("invalid entry for " + repository + " " + group + ":" + artifact);
+			}
+			return new Entry(repository, group, artifact, version, pastEOL < 0 ? null : pastEOL == 1,
+					Dependency.Status.values()[status]);
+		}
+	}
+
+	/**
+	 * Streams the previous snapshot one entry at a time.
+	 * 
+	 * A snapshot of another format version, or one that is corrupt, truncated or
+	 * out of order, is not fatal: the unreadable part is treated as empty so the
+	 * delta can still complete and a fresh snapshot be written.
+	 */
+	private static class SnapshotReader implements AutoCloseable {
+
+		private final Path snapshot;
+		private DataInputStream in;
+		private Entry last;
+		private boolean unreadable;
+
+		SnapshotReader(Path snapshot) {
+			this.snapshot = snapshot;
+			if (!Files.isRegularFile(snapshot)) {
+				logger.info("No previous snapshot at {}, reporting all dependencies as added", snapshot);
+				return;
+			}
+
+			try {
+				InputStream input = new BufferedInputStream(Files.newInputStream(snapshot));
+				this.in = new DataInputStream(input);
+				if (in.readInt() != MAGIC || in.readInt() != FORMAT_VERSION) {
+					throw new IOException("unsupported snapshot format");
+				}
+			} catch (IOException e) {
+				markUnreadable(e);
+			}
+		}
+
+		Entry next() {
+			if (in == null) {
+				return null;
+			}
+			try {
+				Entry entry = Entry.read(in);
+				// placeholders are never compared, older snapshots may still hold them
+				while (entry != null && entry.isRepositoryPlaceholder()) {
+					entry = Entry.read(in);
+				}
+				if (entry != null && last != null && Entry.ORDER.compare(last, entry) >= 0) {
+					throw new IOException("entries out of order");
+				}
+				last = entry;
+				return entry;
+			} catch (EOFException e) {
+				markUnreadable(new IOException("truncated snapshot", e));
+			} catch (IOException e) {
+				markUnreadable(e);
+			}
+			return null;
+		}
+
+		boolean isUnreadable() {
+			return unreadable;
+		}
+
+		private void markUnreadable(IOException e) {
+			logger.warn("Previous snapshot {} is unreadable ({}), treating the rest of it as empty", snapshot,
+					e.getMessage());
+			unreadable = true;
+			close();
+		}
+
+		@Override
+		public void close() {
+			if (in != null) {
+				try {
+					in.close();
+				} catch (IOException ignored) {
+				}
+				in = null;
+			}
+		}
+	}
+
+	/**
+	 * Writes delta rows. A removal directly followed by an addition of the same
+	 * library in the same repository (adjacent in merge order) is reported as a
+	 * single version change, so only one pending row is ever held.
+	 */
+	private static class DeltaWriter implements AutoCloseable {
+
+		private final Writer writer;
+		private Change pendingChange;
+		private Entry pending;
+		long count;
+
+		DeltaWriter(Writer writer) throws IOException {
+			this.writer = writer;
+			writer.append("Change,Repository,Group,Name,Previous Version,Version,Previous Past EOL,Past EOL,"
+					+ "Previous Status,Status\n");
+		}
+
+		void change(Change change, Entry before, Entry after) throws IOException {
+			if (change == Change.ADDED && pendingChange == Change.REMOVED && pending.isSameLibrary(after)) {
+				Entry removed = pending;
+				pending = null;
+				pendingChange = null;
+				write(Change.VERSION_CHANGED, removed, after);
+				return;
+			}
+			if (change == Change.REMOVED && pendingChange == Change.ADDED && pending.isSameLibrary(before)) {
+				Entry added = pending;
+				pending = null;
+				pendingChange = null;
+				write(Change.VERSION_CHANGED, before, added);
+				return;
+			}
+
+			flushPending();
+			if (change == Change.STATUS_CHANGED || change == Change.REPOSITORY_UNRESOLVED) {
+				write(change, before, after);
+			} else {
+				pendingChange = change;
+				pending = change == Change.ADDED ? after : before;
+			}
+		}
+
+		void flushPending() throws IOException {
+			if (pending != null) {
+				write(pendingChange, pendingChange == Change.REMOVED ? pending : null,
+						pendingChange == Change.ADDED ? pending : null);
+				pending = null;
+				pendingChange = null;
+			}
+		}
+
+		private void write(Change change, Entry before, Entry after) throws IOException {
+			Entry key = after != null ? after : before;
+			writer.append(String.format("\"%s\",\"%s\",\"%s\",\"%s\",\"%s\",\"%s\",\"%s\",\"%s\",\"%s\",\"%s\"\n",
+					change, key.repository, key.group, key.artifact, before == null ? "" : before.version,
+					after == null ? "" : after.version, before == null ? "" : before.pastEOL,
+					after == null ? "" : after.pastEOL, before == null ? "" : before.status,
+					after == null ? "" : after.status));
+			count++;
+		}
+
+		@Override
+		public void close() throws IOException {
+			writer.close();
+		}
+	}
+}
@@ -7,6 +7,10 @@ import java.time.ZoneId;
 
 public class Dependency {
 
+	public enum Status {
+		RESOLVED, UNRESOLVED
+	}
+
 	private String group;
 	private String artifact;
 	private String version;
@@ -16,9 +20,14 @@ public class Dependency {
 	private String latestVersion;
 	private LocalDate latestReleaseDate ;
 	private LocalDate releaseDate;
+	private Status status = Status.RESOLVED;
 
+	/**
+	 * @param lib "group:artifact:version"; an empty version marks a dependency
+	 *            whose version could not be resolved
+	 */
 	public Dependency(String lib) {
-		String[] dependency = lib.split(":");
+		String[] dependency = lib.split(":", -1);
 		if (dependency.length == 3) {
 			this.group = dependency[0];
 			this.artifact = dependency[1];
@@ -32,6 +41,23 @@ public class Dependency {
 		this.repoName = fullPath.getAbsolutePath();
 	}
 
+	/**
+	 * Placeholder for a repository whose dependencies could not be extracted
+	 * within the scan budget, with empty group, artifact and version.
+	 */
+	public static Dependency unresolved(String repoPath) {
+		Dependency dependency = new Dependency("::", repoPath);
+		dependency.setStatus(Status.UNRESOLVED);
+		return dependency;
+	}
+
+	/**
+	 * Whether this is the placeholder created by {@link #unresolved(String)}.
+	 */
+	public boolean isRepositoryPlaceholder() {
+		return status == Status.UNRESOLVED && "".equals(group) && "".equals(artifact);
+	}
+
 	public void setReleaseDateFromTimestamp(long unixTimestamp) {
 		releaseDate = Instant.ofEpochMilli(unixTimestamp).atZone(ZoneId.of("UTC")).toLocalDate();
 	}
@@ -100,5 +126,17 @@ public class Dependency {
 	public LocalDate getLatestReleaseDate() {
 		return this.latestReleaseDate ;
 	}
+
+	public boolean hasVersion() {
+		return version != null && !version.isEmpty();
+	}
+
+	public Status getStatus() {
+		return status;
+	}
+
+	public void setStatus(Status status) {
+		this.status = status;
+	}
 	
 }
\ No newline at end of file
@@ -0,0 +1,13 @@
+package eolChecker;
+
+import java.io.File;
+import java.util.Set;
+
+public interface DependencyExtractor {
+
+	/**
+	 * Returns the resolved "group:artifact:version" coordinates of the project, or
+	 * null when this extractor has nothing to read in the project directory.
+	 */
+	Set<String> extractDependencies(File projectDir);
+}
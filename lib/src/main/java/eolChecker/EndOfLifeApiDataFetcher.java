@@ -9,6 +9,7 @@ import java.net.URI;
 import java.net.http.HttpClient;
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
@@ -18,9 +19,22 @@ public class EndOfLifeApiDataFetcher implements EOLDataFetcher {
     private final HttpClient httpClient;
     private final ObjectMapper objectMapper;
     private final String apiBaseUrl = "https://endoflife.date/api/" ;
+    private final Duration timeout;
+    private final ScanDeadline deadline;
 
     public EndOfLifeApiDataFetcher() {
-        this.httpClient = HttpClient.newHttpClient();
+        this(Duration.ofSeconds(30), null);
+    }
+
+    /**
+     * @param timeout  applied both to connecting and to each request
+     * @param deadline caps each request, connection included, to the remaining
+     *                 scan budget (null for none)
+     */
+    public EndOfLifeApiDataFetcher(Duration timeout, ScanDeadline deadline) {
+        this.timeout = timeout;
+        this.deadline = deadline;
+        this.httpClient = HttpClient.newBuilder().connectTimeout(timeout).build();
         this.objectMapper = new ObjectMapper();
     }
 
@@ -29,10 +43,17 @@ public class EndOfLifeApiDataFetcher implements EOLDataFetcher {
         String apiUrl = apiBaseUrl + dependency.getProduct() + ".json";
         logger.debug("Fetching EOL data from API: {}", apiUrl);
 
+        Duration requestTimeout = deadline == null ? timeout : deadline.cap(timeout);
+        if (requestTimeout.isZero()) {
+            logger.warn("Scan budget exhausted, skipping EOL data for {}", dependency.getProduct());
+            return null ;
+        }
+
         try {
             HttpRequest request = HttpRequest.newBuilder()
                     .uri(new URI(apiUrl))
                     .header("Accept", "application/json")
+                    .timeout(requestTimeout)
                     .GET()
                     .build();
 
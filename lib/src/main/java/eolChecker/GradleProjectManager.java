@@ -7,20 +7,64 @@ import org.slf4j.LoggerFactory;
 import java.io.*;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
+import java.time.Duration;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import java.util.regex.*;
 
 public class GradleProjectManager {
 
 	private static final Logger logger = LoggerFactory.getLogger(GradleProjectManager.class);
 
+	/** How long a cancelled build may take to stop before it is disconnected. */
+	private static final Duration CANCEL_GRACE = Duration.ofSeconds(10);
+
+	/**
+	 * Extractors reading resolved coordinates straight from files, tried in order
+	 * before falling back to a Gradle build.
+	 */
+	private final List<DependencyExtractor> fileExtractors = List.of(new LockfileDependencyExtractor(),
+			new PomDependencyExtractor());
+
 	/**
-	 * Parses the Gradle `dependencies` output and maps declared dependencies to
-	 * resolved artifacts.
+	 * Reads the project's lockfiles or pom.xml when present, otherwise parses the
+	 * Gradle `dependencies` output and maps declared dependencies to resolved
+	 * artifacts.
+	 * 
+	 * Lockfiles only record resolved modules, so for projects with lockfiles the
+	 * result holds the transitive production classpath rather than first-level
+	 * dependencies only.
 	 */
 	public Set<String> getFirstLevelDependencies(File projectDir) {
+		return getFirstLevelDependencies(projectDir, null);
+	}
+
+	/**
+	 * Same as {@link #getFirstLevelDependencies(File)}, cancelling the Gradle build
+	 * if it runs longer than the given timeout (null for no limit).
+	 * 
+	 * @return null if the dependencies could not be extracted in time
+	 */
+	public Set<String> getFirstLevelDependencies(File projectDir, Duration timeout) {
+
+		for (DependencyExtractor extractor : fileExtractors) {
+			Set<String> resolved = extractor.extractDependencies(projectDir);
+			if (resolved != null) {
+				return resolved;
+			}
+		}
+
+		// a Maven-only folder must not start a Gradle build (or one of an enclosing build)
+		if (!new File(projectDir, "build.gradle").isFile()) {
+			logger.warn("Unable to extract dependencies from {} - no readable lockfile, pom.xml or build.gradle",
+					projectDir);
+			return null;
+		}
 
-		String dependencies = extractDependencies(projectDir);
+		String dependencies = extractDependencies(projectDir, timeout);
 
 		Set<String> firstLevelDeps = new HashSet<>();
 		Pattern pattern = Pattern.compile("^[+\\\\]---\\s([^\\s:]+:[^\\s:]+:[^\\s]+)");
@@ -43,8 +87,10 @@ public class GradleProjectManager {
 		List<File> gradleProjects = new ArrayList<>();
 		try {
 			Files.walk(new File(repoPath).toPath())
-					.filter(path -> path.getFileName().toString().matches("build\\.gradle?"))
-					.forEach(path -> gradleProjects.add(path.getParent().toFile()));
+					.filter(path -> path.getFileName().toString().matches("build\\.gradle?|pom\\.xml"))
+					.map(path -> path.getParent().toFile())
+					.distinct()
+					.forEach(gradleProjects::add);
 		} catch (IOException e) {
 			logger.error("Error scanning directory: " + e.getMessage());
 		}
@@ -52,26 +98,71 @@ public class GradleProjectManager {
 	}
 
 	/**
-	 * Runs the Gradle `dependencies` task
+	 * Runs the Gradle `dependencies` task, cancelling it through a
+	 * {@link CancellationTokenSource} once the timeout expires.
+	 * 
+	 * Closing a connection waits for its pending builds, so a build that ignores
+	 * the cancellation for longer than {@link #CANCEL_GRACE} is disconnected.
+	 * The bound is best-effort: it relies on the daemon honouring the disconnect.
 	 * 
-	 * @return
+	 * @return null if the build failed or was cancelled
 	 */
-	private String extractDependencies(File projectDir) {
+	private String extractDependencies(File projectDir, Duration timeout) {
 
-		try (ProjectConnection connection = GradleConnector.newConnector().forProjectDirectory(projectDir).connect()) {
+		CancellationTokenSource cancellation = GradleConnector.newCancellationTokenSource();
+		GradleConnector connector = GradleConnector.newConnector().forProjectDirectory(projectDir);
+
+		try (ProjectConnection connection = connector.connect()) {
 
 			logger.info("Fetching Dependencies from Gradle Build file at {}", projectDir);
 
 			ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
-			connection.newBuild().forTasks("dependencies").setStandardOutput(outputStream).run();
+			CompletableFuture<Void> build = new CompletableFuture<>();
+			connection.newBuild().forTasks("dependencies").setStandardOutput(outputStream)
+					.withCancellationToken(cancellation.token()).run(new ResultHandler<Void>() {
+						@Override
+						public void onComplete(Void result) {
+							build.complete(result);
+						}
+
+						@Override
+						public void onFailure(GradleConnectionException failure) {
+							build.completeExceptionally(failure);
+						}
+					});
+
+			try {
+				if (timeout == null) {
+					build.get();
+				} else {
+					build.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+				}
+			} catch (TimeoutException ex) {
+				logger.warn("Gradle build at {} did not finish within {}s, cancelling", projectDir,
+						timeout.toSeconds());
+				cancellation.cancel();
+				try {
+					build.get(CANCEL_GRACE.toMillis(), TimeUnit.MILLISECONDS);
+				} catch (TimeoutException stillRunning) {
+					logger.warn("Gradle build at {} ignored cancellation, disconnecting", projectDir);
+					connector.disconnect();
+				} catch (ExecutionException cancelled) {
+					// expected outcome of the cancellation
+				}
+				return null;
+			}
 
 			// Convert output stream to String
 			return outputStream.toString(StandardCharsets.UTF_8);
 
+		} catch (InterruptedException ex) {
+			cancellation.cancel();
+			Thread.currentThread().interrupt();
+			return null;
 		} catch (Exception ex) {
 			logger.warn("Unable to extract dependencies from {} - {}", projectDir, ex.getMessage());
 			return null;
 		}
 	}
 
-}
\ No newline at end of file
+}
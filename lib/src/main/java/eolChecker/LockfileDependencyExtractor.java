@@ -0,0 +1,121 @@
+package eolChecker;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Reads Gradle dependency lockfiles, which already hold the resolved
+ * coordinates, instead of running a build.
+ * 
+ * Supports the single `gradle.lockfile` format (group:artifact:version=configurations)
+ * and the legacy per-configuration `gradle/dependency-locks/*.lockfile` format.
+ * 
+ * Only entries locked for the main compile and runtime classpaths are kept, so
+ * test, annotation processor and similar configurations are ignored. A lockfile
+ * lists every resolved module, so unlike the Gradle `dependencies` output the
+ * result also contains transitive dependencies.
+ */
+public class LockfileDependencyExtractor implements DependencyExtractor {
+
+	private static final Logger logger = LoggerFactory.getLogger(LockfileDependencyExtractor.class);
+
+	private static final String LOCKFILE = "gradle.lockfile";
+	private static final String LEGACY_LOCK_DIR = "gradle/dependency-locks";
+
+	@Override
+	public Set<String> extractDependencies(File projectDir) {
+		List<Path> lockfiles = findLockfiles(projectDir.toPath());
+		if (lockfiles.isEmpty()) {
+			return null;
+		}
+
+		Set<String> dependencies = new HashSet<>();
+		for (Path lockfile : lockfiles) {
+			logger.info("Reading Dependencies from lockfile {}", lockfile);
+			try (BufferedReader reader = Files.newBufferedReader(lockfile, StandardCharsets.UTF_8)) {
+				String line;
+				while ((line = reader.readLine()) != null) {
+					String dependency = parseLine(line);
+					if (dependency != null) {
+						dependencies.add(dependency);
+					}
+				}
+			} catch (IOException e) {
+				logger.warn("Unable to read lockfile {} - {}", lockfile, e.getMessage());
+				return null;
+			}
+		}
+		return dependencies;
+	}
+
+	private List<Path> findLockfiles(Path projectDir) {
+		List<Path> lockfiles = new ArrayList<>();
+
+		Path lockfile = projectDir.resolve(LOCKFILE);
+		if (Files.isRegularFile(lockfile)) {
+			lockfiles.add(lockfile);
+		}
+
+		Path legacyDir = projectDir.resolve(LEGACY_LOCK_DIR);
+		if (Files.isDirectory(legacyDir)) {
+			// the legacy format has one file per configuration, named after it
+			try (Stream<Path> files = Files.list(legacyDir)) {
+				files.filter(path -> path.getFileName().toString().endsWith(".lockfile"))
+						.filter(path -> isProductionConfiguration(
+								path.getFileName().toString().replaceFirst("\\.lockfile$", "")))
+						.sorted()
+						.forEach(lockfiles::add);
+			} catch (IOException e) {
+				logger.warn("Unable to list lockfiles in {} - {}", legacyDir, e.getMessage());
+			}
+		}
+		return lockfiles;
+	}
+
+	/**
+	 * Returns the "group:artifact:version" coordinate of a lockfile line, or null
+	 * for comments, the "empty=" marker, malformed lines and entries not locked
+	 * for a production classpath.
+	 */
+	static String parseLine(String line) {
+		String entry = line.trim();
+		if (entry.isEmpty() || entry.startsWith("#")) {
+			return null;
+		}
+
+		int configurations = entry.indexOf('=');
+		if (configurations >= 0) {
+			boolean production = Arrays.stream(entry.substring(configurations + 1).split(","))
+					.map(String::trim).anyMatch(LockfileDependencyExtractor::isProductionConfiguration);
+			if (!production) {
+				return null;
+			}
+			entry = entry.substring(0, configurations).trim();
+		}
+
+		return entry.split(":").length == 3 ? entry : null;
+	}
+
+	/**
+	 * Matches compileClasspath and runtimeClasspath, including variant prefixed
+	 * ones such as releaseRuntimeClasspath, but not their test counterparts.
+	 */
+	static boolean isProductionConfiguration(String configuration) {
+		String name = configuration.toLowerCase(Locale.ROOT);
+		return (name.endsWith("compileclasspath") || name.endsWith("runtimeclasspath")) && !name.contains("test");
+	}
+}
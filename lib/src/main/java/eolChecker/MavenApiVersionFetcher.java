@@ -1,9 +1,11 @@
 package eolChecker;
 
 import java.io.BufferedReader;
+import java.io.IOException;
 import java.io.InputStreamReader;
 import java.net.HttpURLConnection;
 import java.net.URL;
+import java.time.Duration;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -17,6 +19,23 @@ public class MavenApiVersionFetcher implements VersionFetcher {
 
 	private static final Logger logger = LoggerFactory.getLogger(MavenApiVersionFetcher.class);
 
+	private final Duration timeout;
+	private final ScanDeadline deadline;
+
+	public MavenApiVersionFetcher() {
+		this(Duration.ofSeconds(30), null);
+	}
+
+	/**
+	 * @param timeout  used as both connect and read timeout of each request
+	 * @param deadline caps each request to the remaining scan budget (null for
+	 *                 none)
+	 */
+	public MavenApiVersionFetcher(Duration timeout, ScanDeadline deadline) {
+		this.timeout = timeout;
+		this.deadline = deadline;
+	}
+
 	@Override
 	public String getLatestVersion(String group, String artifact) {
 
@@ -24,10 +43,7 @@ public class MavenApiVersionFetcher implements VersionFetcher {
 
 		try {
 			// Create HTTP request
-			URL url = new URL(queryUrl);
-			HttpURLConnection conn = (HttpURLConnection) url.openConnection();
-			conn.setRequestMethod("GET");
-			conn.setRequestProperty("Accept", "application/json");
+			HttpURLConnection conn = openConnection(queryUrl);
 
 			// Read response
 			BufferedReader br = new BufferedReader(new InputStreamReader(conn.getInputStream()));
@@ -63,13 +79,27 @@ public class MavenApiVersionFetcher implements VersionFetcher {
 		return getReleaseDate(String.format(specificVersion, dependency.getGroup(), dependency.getArtifact(), version));
 	}
 
+	private HttpURLConnection openConnection(String queryUrl) throws IOException {
+		Duration requestTimeout = deadline == null ? timeout : deadline.cap(timeout);
+		if (requestTimeout.isZero()) {
+			throw new IOException("scan budget exhausted");
+		}
+		// HttpURLConnection takes int milliseconds, where 0 means no timeout at all
+		int timeoutMillis = (int) Math.max(1, Math.min(Integer.MAX_VALUE, requestTimeout.toMillis()));
+
+		URL url = new URL(queryUrl);
+		HttpURLConnection conn = (HttpURLConnection) url.openConnection();
+		conn.setRequestMethod("GET");
+		conn.setRequestProperty("Accept", "application/json");
+		conn.setConnectTimeout(timeoutMillis);
+		conn.setReadTimeout(timeoutMillis);
+		return conn;
+	}
+
 	private long getReleaseDate(String queryUrl) {
 		try {
 			// Create HTTP request
-			URL url = new URL(queryUrl);
-			HttpURLConnection conn = (HttpURLConnection) url.openConnection();
-			conn.setRequestMethod("GET");
-			conn.setRequestProperty("Accept", "application/json");
+			HttpURLConnection conn = openConnection(queryUrl);
 
 			// Read response
 			BufferedReader br = new BufferedReader(new InputStreamReader(conn.getInputStream()));
@@ -14,7 +14,7 @@ public class OutputManager {
 	public void saveToCSV(List<Dependency> dependencies, String filePath) {
 
 		try (FileWriter writer = new FileWriter(filePath)) {
-			writer.append("Repository,Group,Name,Version,Release Date,EOL Date,Past EOL,Latest Version,Release Date\n");
+			writer.append("Repository,Group,Name,Version,Release Date,EOL Date,Past EOL,Latest Version,Release Date,Status\n");
 
 			for (Dependency dep : dependencies) {
 				writer.append(toCSVRow(dep)).append("\n");
@@ -27,7 +27,7 @@ public class OutputManager {
 	}
 
 	private String toCSVRow(Dependency result) {
-		return String.format("\"%s\",\"%s\",\"%s\",\"%s\", \"%s\", \"%s\" , \"%s\" ,\"%s\" ,\"%s\"", result.getRepoName(), result.getGroup(),
-				result.getArtifact(), result.getVersion(), result.getReleaseDate(), result.getEOLDate(), result.getIsPastEOL(), result.getLatestVersion(), result.getLatestReleaseDate());
+		return String.format("\"%s\",\"%s\",\"%s\",\"%s\", \"%s\", \"%s\" , \"%s\" ,\"%s\" ,\"%s\" ,\"%s\"", result.getRepoName(), result.getGroup(),
+				result.getArtifact(), result.getVersion(), result.getReleaseDate(), result.getEOLDate(), result.getIsPastEOL(), result.getLatestVersion(), result.getLatestReleaseDate(), result.getStatus());
 	}
 }
@@ -0,0 +1,364 @@
+package eolChecker;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Reads the dependencies declared in a Maven `pom.xml` with a streaming StAX
+ * parser, interpolating ${...} placeholders from the pom properties and project
+ * coordinates. Dependencies in the test, provided and system scopes are left
+ * out.
+ *
+ * Parent poms reachable through `<relativePath>` (default `../pom.xml`) are read
+ * as well, contributing their properties, dependencyManagement and
+ * dependencies. Versions that only a remote parent or an imported BOM could
+ * provide are returned with an empty version ("group:artifact:") so they are
+ * reported as unresolved rather than dropped.
+ */
+public class PomDependencyExtractor implements DependencyExtractor {
+
+	private static final Logger logger = LoggerFactory.getLogger(PomDependencyExtractor.class);
+
+	private static final String POM = "pom.xml";
+	private static final Pattern PLACEHOLDER = Pattern.compile("\\$\\{([^}]+)\\}");
+	private static final int MAX_INTERPOLATION_DEPTH = 10;
+	private static final int MAX_PARENT_DEPTH = 10;
+
+	private static final String DEPENDENCY = "project/dependencies/dependency";
+	private static final String MANAGED_DEPENDENCY = "project/dependencyManagement/dependencies/dependency";
+	private static final String PROPERTIES = "project/properties";
+
+	/** Like the lockfile extractor, only the production classpath is reported. */
+	private static final Set<String> NON_PRODUCTION_SCOPES = Set.of("test", "provided", "system");
+
+	private final XMLInputFactory xmlInputFactory;
+
+	public PomDependencyExtractor() {
+		this.xmlInputFactory = XMLInputFactory.newInstance();
+		this.xmlInputFactory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+		this.xmlInputFactory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+	}
+
+	@Override
+	public Set<String> extractDependencies(File projectDir) {
+		File pom = new File(projectDir, POM);
+		if (!pom.isFile()) {
+			return null;
+		}
+
+		logger.info("Reading Dependencies from Maven pom at {}", pom);
+
+		PomModel model;
+		try {
+			model = parse(pom);
+		} catch (Exception e) {
+			logger.warn("Unable to read Maven pom {} - {}", pom, e.getMessage());
+			return null;
+		}
+
+		// ancestors first, so that a child's values override its parent's
+		Deque<PomModel> lineage = new ArrayDeque<>();
+		lineage.push(model);
+		File current = pom;
+		while (lineage.size() <= MAX_PARENT_DEPTH) {
+			PomModel child = lineage.peek();
+			PomModel parent = readParent(current, child);
+			if (parent == null) {
+				break;
+			}
+			lineage.push(parent);
+			current = parent.file;
+		}
+
+		Map<String, String> properties = new HashMap<>();
+		List<String[]> declared = new ArrayList<>();
+		List<String[]> managed = new ArrayList<>();
+		for (PomModel ancestor : lineage) {
+			properties.putAll(ancestor.properties);
+			declared.addAll(ancestor.dependencies);
+			managed.addAll(ancestor.managedDependencies);
+		}
+		collectProjectProperties(properties, model);
+
+		Map<String, String> managedVersions = new HashMap<>();
+		Map<String, String> managedScopes = new HashMap<>();
+		for (String[] dependency : managed) {
+			String key = interpolate(dependency[0], properties) + ":" + interpolate(dependency[1], properties);
+			managedVersions.put(key, dependency[2]);
+			managedScopes.put(key, dependency[3]);
+		}
+
+		// a child redeclaring a parent's dependency replaces it
+		Map<String, String[]> declaredByKey = new LinkedHashMap<>();
+		for (String[] dependency : declared) {
+			declaredByKey.put(interpolate(dependency[0], properties) + ":" + interpolate(dependency[1], properties),
+					dependency);
+		}
+
+		Set<String> dependencies = new HashSet<>();
+		for (String[] dependency : declaredByKey.values()) {
+			String group = interpolate(dependency[0], properties);
+			String artifact = interpolate(dependency[1], properties);
+			String version = dependency[2] != null ? dependency[2] : managedVersions.get(group + ":" + artifact);
+			version = interpolate(version, properties);
+			String scope = dependency[3] != null ? dependency[3] : managedScopes.get(group + ":" + artifact);
+
+			if (scope != null && NON_PRODUCTION_SCOPES.contains(interpolate(scope, properties))) {
+				continue;
+			} else if (!isResolved(group) || !isResolved(artifact)) {
+				logger.warn("Skipping dependency without coordinates {}:{} in {}", group, artifact, pom);
+			} else if (!isResolved(version)) {
+				logger.warn("Unable to resolve version of {}:{} in {}", group, artifact, pom);
+				dependencies.add(group + ":" + artifact + ":");
+			} else {
+				dependencies.add(group + ":" + artifact + ":" + version);
+			}
+		}
+		return dependencies;
+	}
+
+	/**
+	 * Returns the parent pom found through the child's relativePath, or null if
+	 * there is none on disk or it is not the declared parent.
+	 */
+	private PomModel readParent(File childPom, PomModel child) {
+		if (child.parentArtifactId == null) {
+			return null;
+		}
+
+		String relativePath = child.parentRelativePath != null ? child.parentRelativePath : "../" + POM;
+		if (relativePath.isEmpty()) {
+			return null;
+		}
+		File parentPom = new File(childPom.getParentFile(), relativePath);
+		if (parentPom.isDirectory()) {
+			parentPom = new File(parentPom, POM);
+		}
+		if (!parentPom.isFile()) {
+			logger.debug("Parent pom of {} not found at {}", childPom, parentPom);
+			return null;
+		}
+
+		try {
+			PomModel parent = parse(parentPom);
+			if (!child.parentArtifactId.equals(parent.artifactId)) {
+				logger.debug("Pom at {} is not the parent {} of {}", parentPom, child.parentArtifactId, childPom);
+				return null;
+			}
+			return parent;
+		} catch (Exception e) {
+			logger.warn("Unable to read parent pom {} - {}", parentPom, e.getMessage());
+			return null;
+		}
+	}
+
+	private PomModel parse(File pom) throws IOException, XMLStreamException {
+		PomModel model = new PomModel(pom.getCanonicalFile());
+
+		try (InputStream input = new FileInputStream(pom)) {
+			XMLStreamReader reader = xmlInputFactory.createXMLStreamReader(input);
+			Deque<String> path = new ArrayDeque<>();
+			String[] current = null;
+			StringBuilder text = new StringBuilder();
+
+			try {
+				while (reader.hasNext()) {
+					switch (reader.next()) {
+					case XMLStreamConstants.START_ELEMENT:
+						path.addLast(reader.getLocalName());
+						text.setLength(0);
+						String startPath = String.join("/", path);
+						if (startPath.equals(DEPENDENCY) || startPath.equals(MANAGED_DEPENDENCY)) {
+							current = new String[4];
+						}
+						break;
+					case XMLStreamConstants.CHARACTERS:
+					case XMLStreamConstants.CDATA:
+						text.append(reader.getText());
+						break;
+					case XMLStreamConstants.END_ELEMENT:
+						String endPath = String.join("/", path);
+						String value = text.toString().trim();
+						String parentPath = endPath.substring(0, Math.max(0, endPath.lastIndexOf('/')));
+
+						if (parentPath.equals(PROPERTIES)) {
+							model.properties.put(reader.getLocalName(), value);
+						} else if (current != null
+								&& (parentPath.equals(DEPENDENCY) || parentPath.equals(MANAGED_DEPENDENCY))) {
+							setCoordinate(current, reader.getLocalName(), value);
+						} else if (endPath.equals(DEPENDENCY)) {
+							model.dependencies.add(current);
+							current = null;
+						} else if (endPath.equals(MANAGED_DEPENDENCY)) {
+							// imported BOMs are not on disk, their entries stay unresolved
+							if (!"import".equals(current[3])) {
+								model.managedDependencies.add(current);
+							}
+							current = null;
+						} else {
+							model.setCoordinate(endPath, value);
+						}
+
+						path.removeLast();
+						text.setLength(0);
+						break;
+					default:
+						break;
+					}
+				}
+			} finally {
+				reader.close();
+			}
+		}
+		return model;
+	}
+
+	private void setCoordinate(String[] dependency, String element, String value) {
+		switch (element) {
+		case "groupId":
+			dependency[0] = value;
+			break;
+		case "artifactId":
+			dependency[1] = value;
+			break;
+		case "version":
+			dependency[2] = value;
+			break;
+		case "scope":
+			dependency[3] = value;
+			break;
+		default:
+			break;
+		}
+	}
+
+	/**
+	 * Exposes the project and parent coordinates under the names Maven uses for
+	 * interpolation, e.g. ${project.version} or ${project.parent.groupId}.
+	 */
+	private void collectProjectProperties(Map<String, String> properties, PomModel model) {
+		// a module without its own groupId or version inherits the parent's
+		String groupId = model.groupId != null ? model.groupId : model.parentGroupId;
+		String version = model.version != null ? model.version : model.parentVersion;
+
+		putProjectProperty(properties, "groupId", groupId);
+		putProjectProperty(properties, "artifactId", model.artifactId);
+		putProjectProperty(properties, "version", version);
+		if (model.parentGroupId != null) {
+			properties.put("project.parent.groupId", model.parentGroupId);
+		}
+		if (model.parentVersion != null) {
+			properties.put("project.parent.version", model.parentVersion);
+		}
+	}
+
+	private void putProjectProperty(Map<String, String> properties, String name, String value) {
+		if (value != null) {
+			properties.put("project." + name, value);
+			properties.put("pom." + name, value);
+		}
+	}
+
+	static String interpolate(String value, Map<String, String> properties) {
+		if (value == null) {
+			return null;
+		}
+
+		String result = value;
+		for (int depth = 0; depth < MAX_INTERPOLATION_DEPTH && result.contains("${"); depth++) {
+			Matcher matcher = PLACEHOLDER.matcher(result);
+			StringBuilder interpolated = new StringBuilder();
+			boolean replaced = false;
+			while (matcher.find()) {
+				String replacement = properties.get(matcher.group(1));
+				if (replacement == null) {
+					replacement = System.getProperty(matcher.group(1));
+				}
+				replaced |= replacement != null;
+				matcher.appendReplacement(interpolated,
+						Matcher.quoteReplacement(replacement != null ? replacement : matcher.group()));
+			}
+			matcher.appendTail(interpolated);
+			result = interpolated.toString();
+			if (!replaced) {
+				break;
+			}
+		}
+		return result;
+	}
+
+	private boolean isResolved(String value) {
+		return value != null && !value.isEmpty() && !value.contains("${");
+	}
+
+	/**
+	 * The parts of a single pom file needed to build the effective dependency
+	 * list. Dependencies are {groupId, artifactId, version, scope}.
+	 */
+	private static class PomModel {
+		final File file;
+		final Map<String, String> properties = new HashMap<>();
+		final List<String[]> dependencies = new ArrayList<>();
+		final List<String[]> managedDependencies = new ArrayList<>();
+		String groupId;
+		String artifactId;
+		String version;
+		String parentGroupId;
+		String parentArtifactId;
+		String parentVersion;
+		String parentRelativePath;
+
+		PomModel(File file) {
+			this.file = file;
+		}
+
+		void setCoordinate(String path, String value) {
+			switch (path) {
+			case "project/groupId":
+				groupId = value;
+				break;
+			case "project/artifactId":
+				artifactId = value;
+				break;
+			case "project/version":
+				version = value;
+				break;
+			case "project/parent/groupId":
+				parentGroupId = value;
+				break;
+			case "project/parent/artifactId":
+				parentArtifactId = value;
+				break;
+			case "project/parent/version":
+				parentVersion = value;
+				break;
+			case "project/parent/relativePath":
+				parentRelativePath = value;
+				break;
+			default:
+				break;
+			}
+		}
+	}
+}
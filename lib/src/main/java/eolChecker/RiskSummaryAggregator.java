@@ -0,0 +1,154 @@
+package eolChecker;
+
+import java.io.FileWriter;
+import java.io.IOException;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Keeps running per-product and per-repository risk figures while the scan
+ * progresses, so the headline numbers do not require re-reading the full CSV.
+ *
+ * Each key holds a fixed set of counters. Distinct repositories per product are
+ * counted by remembering the last repository seen, which relies on the scan
+ * recording dependencies one repository at a time.
+ *
+ * Repositories that could not be extracted only count towards "Unresolved
+ * Repositories", never as dependencies.
+ */
+public class RiskSummaryAggregator {
+
+	private static final Logger logger = LoggerFactory.getLogger(RiskSummaryAggregator.class);
+
+	/** Release dates fall back to the epoch when Maven Central has no timestamp. */
+	private static final LocalDate UNKNOWN_DATE = LocalDate.of(1970, 1, 1);
+
+	private final LocalDate today = LocalDate.now();
+	private final Map<String, Aggregate> byProduct = new HashMap<>();
+	private final Map<String, Aggregate> byRepository = new HashMap<>();
+
+	public void record(Dependency dependency) {
+		String repository = String.valueOf(dependency.getRepoName());
+		// repositories that could not be extracted carry no product
+		if (dependency.getProduct() != null) {
+			byProduct.computeIfAbsent(dependency.getProduct(), key -> new Aggregate()).add(dependency, repository);
+		}
+		byRepository.computeIfAbsent(repository, key -> new Aggregate()).add(dependency, repository);
+	}
+
+	public void saveToCSV(String filePath) {
+
+		try (FileWriter writer = new FileWriter(filePath)) {
+			writer.append("Scope,Key,Dependencies,Repositories,Past EOL,Past EOL Repositories,Unresolved,"
+					+ "Unresolved Repositories,Earliest EOL Date,Next EOL Date,Days To Next EOL,"
+					+ "Max Version Lag Days,Avg Version Lag Days\n");
+
+			for (Map.Entry<String, Aggregate> entry : sorted(byProduct)) {
+				writer.append(toCSVRow("product", entry.getKey(), entry.getValue())).append("\n");
+			}
+			for (Map.Entry<String, Aggregate> entry : sorted(byRepository)) {
+				writer.append(toCSVRow("repository", entry.getKey(), entry.getValue())).append("\n");
+			}
+
+			logger.info("Risk summary saved to: {}", filePath);
+		} catch (IOException e) {
+			logger.error("ERROR: Failed to write risk summary - {}", e.getMessage());
+		}
+	}
+
+	/**
+	 * Orders keys by the soonest upcoming EOL first, keys without an upcoming EOL
+	 * last.
+	 */
+	private List<Map.Entry<String, Aggregate>> sorted(Map<String, Aggregate> aggregates) {
+		List<Map.Entry<String, Aggregate>> entries = new ArrayList<>(aggregates.entrySet());
+		entries.sort(Comparator
+				.comparing((Map.Entry<String, Aggregate> entry) -> entry.getValue().nextEOL,
+						Comparator.nullsLast(Comparator.naturalOrder()))
+				.thenComparing(Map.Entry::getKey));
+		return entries;
+	}
+
+	private String toCSVRow(String scope, String key, Aggregate aggregate) {
+		Long daysToNextEOL = aggregate.nextEOL == null ? null : ChronoUnit.DAYS.between(today, aggregate.nextEOL);
+		Long avgLag = aggregate.lagSamples == 0 ? null : aggregate.totalLagDays / aggregate.lagSamples;
+		Long maxLag = aggregate.lagSamples == 0 ? null : aggregate.maxLagDays;
+
+		return String.format("\"%s\",\"%s\",%d,%d,%d,%d,%d,%d,\"%s\",\"%s\",%s,%s,%s", scope, key,
+				aggregate.dependencies, aggregate.repositories, aggregate.pastEOL, aggregate.pastEOLRepositories,
+				aggregate.unresolved, aggregate.unresolvedRepositories, aggregate.earliestEOL, aggregate.nextEOL,
+				Objects.toString(daysToNextEOL, ""), Objects.toString(maxLag, ""), Objects.toString(avgLag, ""));
+	}
+
+	private class Aggregate {
+		long dependencies;
+		long repositories;
+		long pastEOL;
+		long pastEOLRepositories;
+		long unresolved;
+		long unresolvedRepositories;
+		LocalDate earliestEOL;
+		LocalDate nextEOL;
+		long maxLagDays;
+		long totalLagDays;
+		long lagSamples;
+
+		private String lastRepository;
+		private String lastPastEOLRepository;
+
+		void add(Dependency dependency, String repository) {
+			if (dependency.isRepositoryPlaceholder()) {
+				unresolvedRepositories++;
+				return;
+			}
+
+			dependencies++;
+			if (!repository.equals(lastRepository)) {
+				repositories++;
+				lastRepository = repository;
+			}
+
+			if (dependency.getStatus() == Dependency.Status.UNRESOLVED) {
+				unresolved++;
+			}
+
+			LocalDate eolDate = dependency.getEOLDate();
+			if (eolDate != null) {
+				if (earliestEOL == null || eolDate.isBefore(earliestEOL)) {
+					earliestEOL = eolDate;
+				}
+				if (today.isAfter(eolDate)) {
+					pastEOL++;
+					if (!repository.equals(lastPastEOLRepository)) {
+						pastEOLRepositories++;
+						lastPastEOLRepository = repository;
+					}
+				} else if (nextEOL == null || eolDate.isBefore(nextEOL)) {
+					nextEOL = eolDate;
+				}
+			}
+
+			LocalDate released = dependency.getReleaseDate();
+			LocalDate latestReleased = dependency.getLatestReleaseDate();
+			if (isKnown(released) && isKnown(latestReleased)) {
+				long lag = Math.max(0, ChronoUnit.DAYS.between(released, latestReleased));
+				maxLagDays = Math.max(maxLagDays, lag);
+				totalLagDays += lag;
+				lagSamples++;
+			}
+		}
+
+		private boolean isKnown(LocalDate date) {
+			return date != null && !date.equals(UNKNOWN_DATE);
+		}
+	}
+}
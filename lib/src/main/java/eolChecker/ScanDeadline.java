@@ -0,0 +1,34 @@
+package eolChecker;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * Global time budget of a scan. Stages ask for their own timeout capped by what
+ * is left of the budget, and stop starting new work once it is exhausted.
+ */
+public class ScanDeadline {
+
+	private final Instant deadline;
+
+	public ScanDeadline(Duration budget) {
+		this.deadline = Instant.now().plus(budget);
+	}
+
+	public Duration remaining() {
+		Duration remaining = Duration.between(Instant.now(), deadline);
+		return remaining.isNegative() ? Duration.ZERO : remaining;
+	}
+
+	public boolean isExpired() {
+		return remaining().isZero();
+	}
+
+	/**
+	 * Returns the stage timeout, shortened to the remaining budget if needed.
+	 */
+	public Duration cap(Duration stageTimeout) {
+		Duration remaining = remaining();
+		return stageTimeout.compareTo(remaining) < 0 ? stageTimeout : remaining;
+	}
+}
@@ -0,0 +1,119 @@
+package eolChecker;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class DeltaManagerTest {
+
+	@TempDir
+	Path workDir;
+
+	private final DeltaManager deltaManager = new DeltaManager();
+
+	@Test
+	void firstRunReportsEverythingAsAdded() throws IOException {
+		List<String> delta = scan(dependency("/r", "g:a:1"), dependency("/r", "g:b:1"));
+
+		assertEquals(List.of(row("ADDED", "/r", "g", "a", "", "1", "", "null", "", "RESOLVED"),
+				row("ADDED", "/r", "g", "b", "", "1", "", "null", "", "RESOLVED")), delta);
+	}
+
+	@Test
+	void reportsAddedRemovedAndUpgradedDependencies() throws IOException {
+		scan(dependency("/r", "g:a:1"), dependency("/r", "g:b:1"), dependency("/r", "g:c:1"));
+
+		List<String> delta = scan(dependency("/r", "g:a:2"), dependency("/r", "g:c:1"), dependency("/r", "g:d:1"));
+
+		assertEquals(List.of(row("VERSION_CHANGED", "/r", "g", "a", "1", "2", "null", "null", "RESOLVED", "RESOLVED"),
+				row("REMOVED", "/r", "g", "b", "1", "", "null", "", "RESOLVED", ""),
+				row("ADDED", "/r", "g", "d", "", "1", "", "null", "", "RESOLVED")), delta);
+	}
+
+	@Test
+	void pairsDowngradeWhereAdditionSortsFirst() throws IOException {
+		scan(dependency("/r", "g:a:2.0"));
+
+		List<String> delta = scan(dependency("/r", "g:a:1.0"));
+
+		assertEquals(
+				List.of(row("VERSION_CHANGED", "/r", "g", "a", "2.0", "1.0", "null", "null", "RESOLVED", "RESOLVED")),
+				delta);
+	}
+
+	@Test
+	void reportsStatusChanges() throws IOException {
+		scan(dependency("/r", "g:a:1"));
+
+		Dependency pastEOL = dependency("/r", "g:a:1");
+		pastEOL.setEOLDate(LocalDate.now().minusDays(1));
+		List<String> delta = scan(pastEOL);
+
+		assertEquals(List.of(row("STATUS_CHANGED", "/r", "g", "a", "1", "1", "null", "true", "RESOLVED", "RESOLVED")),
+				delta);
+	}
+
+	@Test
+	void unresolvedRepositoryKeepsItsPreviousEntries() throws IOException {
+		scan(dependency("/r", "g:a:1"), dependency("/r", "g:c:1"), dependency("/r", "g:d:1"),
+				dependency("/s", "g:a:1"));
+
+		List<String> delta = scan(Dependency.unresolved("/r"), dependency("/s", "g:a:1"));
+
+		assertEquals(List.of(row("REPOSITORY_UNRESOLVED", "/r", "", "", "", "", "", "null", "", "UNRESOLVED")), delta);
+
+		// the carried-over entries make the next successful run report no changes
+		delta = scan(dependency("/r", "g:a:1"), dependency("/r", "g:c:1"), dependency("/r", "g:d:1"),
+				dependency("/s", "g:a:1"));
+
+		assertEquals(List.of(), delta);
+	}
+
+	@Test
+	void unresolvedDependencyKeepsItsPreviousState() throws IOException {
+		Dependency pastEOL = dependency("/r", "g:a:1");
+		pastEOL.setEOLDate(LocalDate.now().minusDays(1));
+		scan(pastEOL);
+
+		Dependency skipped = dependency("/r", "g:a:1");
+		skipped.setStatus(Dependency.Status.UNRESOLVED);
+		assertEquals(List.of(), scan(skipped));
+
+		// the past EOL state was carried over, so it is not reported as a new hit
+		assertEquals(List.of(), scan(pastEOL));
+	}
+
+	@Test
+	void unreadableSnapshotIsTreatedAsEmptyAndReplaced() throws IOException {
+		Files.writeString(workDir.resolve("snapshot.bin"), "not a snapshot");
+
+		List<String> delta = scan(dependency("/r", "g:a:1"));
+
+		assertEquals(List.of(row("ADDED", "/r", "g", "a", "", "1", "", "null", "", "RESOLVED")), delta);
+		assertTrue(Files.exists(workDir.resolve("snapshot.bin.unreadable")));
+		assertEquals(List.of(), scan(dependency("/r", "g:a:1")));
+	}
+
+	private List<String> scan(Dependency... dependencies) throws IOException {
+		Path deltaFile = workDir.resolve("delta.csv");
+		deltaManager.saveDelta(List.of(dependencies), workDir.resolve("snapshot.bin").toString(), deltaFile.toString());
+
+		List<String> lines = Files.readAllLines(deltaFile);
+		return lines.subList(1, lines.size());
+	}
+
+	private Dependency dependency(String repository, String lib) {
+		return new Dependency(lib, repository);
+	}
+
+	private String row(String... values) {
+		return "\"" + String.join("\",\"", values) + "\"";
+	}
+}
@@ -0,0 +1,66 @@
+package eolChecker;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class LockfileDependencyExtractorTest {
+
+	@TempDir
+	Path projectDir;
+
+	@Test
+	void parseLineSkipsCommentsAndEmptyMarker() {
+		assertNull(LockfileDependencyExtractor.parseLine("# This is a Gradle generated file for dependency locking."));
+		assertNull(LockfileDependencyExtractor.parseLine("empty=annotationProcessor,testCompileClasspath"));
+		assertNull(LockfileDependencyExtractor.parseLine("   "));
+	}
+
+	@Test
+	void parseLineKeepsProductionClasspathEntries() {
+		assertEquals("org.slf4j:slf4j-api:2.0.7",
+				LockfileDependencyExtractor.parseLine("org.slf4j:slf4j-api:2.0.7=compileClasspath,runtimeClasspath"));
+		assertEquals("org.slf4j:slf4j-api:2.0.7",
+				LockfileDependencyExtractor.parseLine("org.slf4j:slf4j-api:2.0.7=releaseRuntimeClasspath"));
+		assertEquals("org.slf4j:slf4j-api:2.0.7", LockfileDependencyExtractor.parseLine("org.slf4j:slf4j-api:2.0.7"));
+	}
+
+	@Test
+	void parseLineSkipsTestAndToolingEntries() {
+		assertNull(LockfileDependencyExtractor
+				.parseLine("org.junit.jupiter:junit-jupiter:5.8.1=testCompileClasspath,testRuntimeClasspath"));
+		assertNull(LockfileDependencyExtractor.parseLine("com.google.auto:auto-value:1.9=annotationProcessor"));
+	}
+
+	@Test
+	void parseLineRejectsMalformedCoordinates() {
+		assertNull(LockfileDependencyExtractor.parseLine("org.slf4j:slf4j-api=compileClasspath"));
+	}
+
+	@Test
+	void readsGradleLockfileAndLegacyLocks() throws IOException {
+		Files.writeString(projectDir.resolve("gradle.lockfile"),
+				"# comment\n" + "org.slf4j:slf4j-api:2.0.7=compileClasspath,runtimeClasspath\n"
+						+ "org.junit.jupiter:junit-jupiter:5.8.1=testRuntimeClasspath\n"
+						+ "empty=annotationProcessor\n");
+		Path legacyDir = Files.createDirectories(projectDir.resolve("gradle/dependency-locks"));
+		Files.writeString(legacyDir.resolve("runtimeClasspath.lockfile"), "com.fasterxml:jackson:2.15.2\n");
+		Files.writeString(legacyDir.resolve("testCompileClasspath.lockfile"), "org.mockito:mockito-core:5.0.0\n");
+		Files.writeString(legacyDir.resolve("buildscript-classpath.lockfile"), "org.plugin:plugin:1.0\n");
+
+		Set<String> dependencies = new LockfileDependencyExtractor().extractDependencies(projectDir.toFile());
+
+		assertEquals(Set.of("org.slf4j:slf4j-api:2.0.7", "com.fasterxml:jackson:2.15.2"), dependencies);
+	}
+
+	@Test
+	void returnsNullWithoutLockfiles() {
+		assertNull(new LockfileDependencyExtractor().extractDependencies(projectDir.toFile()));
+	}
+}
@@ -0,0 +1,144 @@
+package eolChecker;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class PomDependencyExtractorTest {
+
+	@TempDir
+	Path projectDir;
+
+	@Test
+	void interpolatesNestedProperties() {
+		Map<String, String> properties = Map.of("spring.version", "5.3.9", "aop.version", "${spring.version}");
+
+		assertEquals("5.3.9", PomDependencyExtractor.interpolate("${aop.version}", properties));
+		assertEquals("${missing}", PomDependencyExtractor.interpolate("${missing}", properties));
+		assertNull(PomDependencyExtractor.interpolate(null, properties));
+	}
+
+	@Test
+	void resolvesPropertiesManagedVersionsAndExclusions() throws IOException {
+		Files.writeString(projectDir.resolve("pom.xml"), "<project xmlns=\"http://maven.apache.org/POM/4.0.0\">\n"
+				+ "  <groupId>org.example</groupId>\n"
+				+ "  <artifactId>app</artifactId>\n"
+				+ "  <version>1.0</version>\n"
+				+ "  <properties><spring.version>5.3.9</spring.version></properties>\n"
+				+ "  <dependencyManagement><dependencies>\n"
+				+ "    <dependency><groupId>org.slf4j</groupId><artifactId>slf4j-api</artifactId><version>2.0.7</version></dependency>\n"
+				+ "  </dependencies></dependencyManagement>\n"
+				+ "  <dependencies>\n"
+				+ "    <dependency><groupId>org.springframework</groupId><artifactId>spring-aop</artifactId>\n"
+				+ "      <version>${spring.version}</version>\n"
+				+ "      <exclusions><exclusion><groupId>commons-logging</groupId><artifactId>commons-logging</artifactId></exclusion></exclusions>\n"
+				+ "    </dependency>\n"
+				+ "    <dependency><groupId>org.slf4j</groupId><artifactId>slf4j-api</artifactId></dependency>\n"
+				+ "    <dependency><groupId>${project.groupId}</groupId><artifactId>core</artifactId><version>${project.version}</version></dependency>\n"
+				+ "  </dependencies>\n"
+				+ "</project>\n");
+
+		Set<String> dependencies = new PomDependencyExtractor().extractDependencies(projectDir.toFile());
+
+		assertEquals(Set.of("org.springframework:spring-aop:5.3.9", "org.slf4j:slf4j-api:2.0.7",
+				"org.example:core:1.0"), dependencies);
+	}
+
+	@Test
+	void skipsNonProductionScopes() throws IOException {
+		Files.writeString(projectDir.resolve("pom.xml"), "<project>\n"
+				+ "  <groupId>org.example</groupId><artifactId>app</artifactId><version>1.0</version>\n"
+				+ "  <dependencyManagement><dependencies>\n"
+				+ "    <dependency><groupId>org.mockito</groupId><artifactId>mockito-core</artifactId><version>5.0.0</version><scope>test</scope></dependency>\n"
+				+ "  </dependencies></dependencyManagement>\n"
+				+ "  <dependencies>\n"
+				+ "    <dependency><groupId>org.slf4j</groupId><artifactId>slf4j-api</artifactId><version>2.0.7</version><scope>runtime</scope></dependency>\n"
+				+ "    <dependency><groupId>junit</groupId><artifactId>junit</artifactId><version>4.12</version><scope>test</scope></dependency>\n"
+				+ "    <dependency><groupId>javax.servlet</groupId><artifactId>servlet-api</artifactId><version>2.5</version><scope>provided</scope></dependency>\n"
+				+ "    <dependency><groupId>com.sun</groupId><artifactId>tools</artifactId><version>1.8</version><scope>system</scope></dependency>\n"
+				+ "    <dependency><groupId>org.mockito</groupId><artifactId>mockito-core</artifactId></dependency>\n"
+				+ "  </dependencies>\n"
+				+ "</project>\n");
+
+		Set<String> dependencies = new PomDependencyExtractor().extractDependencies(projectDir.toFile());
+
+		assertEquals(Set.of("org.slf4j:slf4j-api:2.0.7"), dependencies);
+	}
+
+	@Test
+	void readsParentFromRelativePath() throws IOException {
+		Files.writeString(projectDir.resolve("pom.xml"), "<project>\n"
+				+ "  <groupId>org.example</groupId><artifactId>parent</artifactId><version>2.0</version>\n"
+				+ "  <properties><log4j.version>2.17.1</log4j.version></properties>\n"
+				+ "  <dependencyManagement><dependencies>\n"
+				+ "    <dependency><groupId>org.apache.logging.log4j</groupId><artifactId>log4j-core</artifactId><version>${log4j.version}</version></dependency>\n"
+				+ "  </dependencies></dependencyManagement>\n"
+				+ "</project>\n");
+		Path module = Files.createDirectories(projectDir.resolve("module"));
+		Files.writeString(module.resolve("pom.xml"), "<project>\n"
+				+ "  <parent><groupId>org.example</groupId><artifactId>parent</artifactId><version>2.0</version></parent>\n"
+				+ "  <artifactId>module</artifactId>\n"
+				+ "  <dependencies>\n"
+				+ "    <dependency><groupId>org.apache.logging.log4j</groupId><artifactId>log4j-core</artifactId></dependency>\n"
+				+ "    <dependency><groupId>org.example</groupId><artifactId>api</artifactId><version>${project.version}</version></dependency>\n"
+				+ "  </dependencies>\n"
+				+ "</project>\n");
+
+		Set<String> dependencies = new PomDependencyExtractor().extractDependencies(module.toFile());
+
+		assertEquals(Set.of("org.apache.logging.log4j:log4j-core:2.17.1", "org.example:api:2.0"), dependencies);
+	}
+
+	@Test
+	void childDependencyOverridesParentVersion() throws IOException {
+		Files.writeString(projectDir.resolve("pom.xml"), "<project>\n"
+				+ "  <groupId>org.example</groupId><artifactId>parent</artifactId><version>2.0</version>\n"
+				+ "  <dependencies>\n"
+				+ "    <dependency><groupId>g</groupId><artifactId>a</artifactId><version>1.0</version></dependency>\n"
+				+ "  </dependencies>\n"
+				+ "</project>\n");
+		Path module = Files.createDirectories(projectDir.resolve("module"));
+		Files.writeString(module.resolve("pom.xml"), "<project>\n"
+				+ "  <parent><groupId>org.example</groupId><artifactId>parent</artifactId><version>2.0</version></parent>\n"
+				+ "  <artifactId>module</artifactId>\n"
+				+ "  <dependencies>\n"
+				+ "    <dependency><groupId>g</groupId><artifactId>a</artifactId><version>2.0</version></dependency>\n"
+				+ "  </dependencies>\n"
+				+ "</project>\n");
+
+		Set<String> dependencies = new PomDependencyExtractor().extractDependencies(module.toFile());
+
+		assertEquals(Set.of("g:a:2.0"), dependencies);
+	}
+
+	@Test
+	void keepsDependenciesWithUnresolvedVersion() throws IOException {
+		Files.writeString(projectDir.resolve("pom.xml"), "<project>\n"
+				+ "  <parent><groupId>org.springframework.boot</groupId><artifactId>spring-boot-starter-parent</artifactId><version>3.2.0</version></parent>\n"
+				+ "  <artifactId>app</artifactId>\n"
+				+ "  <dependencies>\n"
+				+ "    <dependency><groupId>org.springframework.boot</groupId><artifactId>spring-boot-starter-web</artifactId></dependency>\n"
+				+ "  </dependencies>\n"
+				+ "</project>\n");
+
+		Set<String> dependencies = new PomDependencyExtractor().extractDependencies(projectDir.toFile());
+
+		assertEquals(Set.of("org.springframework.boot:spring-boot-starter-web:"), dependencies);
+		assertFalse(new Dependency("org.springframework.boot:spring-boot-starter-web:").hasVersion());
+	}
+
+	@Test
+	void returnsNullForMissingOrMalformedPom() throws IOException {
+		assertNull(new PomDependencyExtractor().extractDependencies(projectDir.toFile()));
+
+		Files.writeString(projectDir.resolve("pom.xml"), "<project><dependencies>");
+		assertNull(new PomDependencyExtractor().extractDependencies(projectDir.toFile()));
+	}
+}
@@ -0,0 +1,107 @@
+package eolChecker;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class RiskSummaryAggregatorTest {
+
+	@TempDir
+	Path workDir;
+
+	private final LocalDate today = LocalDate.now();
+	private final RiskSummaryAggregator aggregator = new RiskSummaryAggregator();
+
+	@Test
+	void countsPastEOLDependenciesAndRepositories() throws IOException {
+		aggregator.record(dependency("/r1", "org.springframework:spring-aop:5.3.9", "spring", today.minusDays(10)));
+		aggregator.record(dependency("/r2", "org.springframework:spring-core:5.3.9", "spring", today.minusDays(20)));
+		aggregator.record(dependency("/r2", "org.springframework:spring-beans:5.3.9", "spring", today.minusDays(20)));
+
+		assertEquals(row("product", "spring", "3,2,3,2,0,0", today.minusDays(20), null, "", ""), find("spring"));
+		assertEquals(row("repository", "/r2", "2,1,2,1,0,0", today.minusDays(20), null, "", ""), find("/r2"));
+	}
+
+	@Test
+	void averagesVersionLagSkippingUnknownReleaseDates() throws IOException {
+		Dependency recent = dependency("/r1", "g:a:1", "lib", null);
+		released(recent, today.minusDays(150), today.minusDays(50));
+		Dependency older = dependency("/r1", "g:b:1", "lib", null);
+		released(older, today.minusDays(250), today.minusDays(50));
+		Dependency unknown = dependency("/r1", "g:c:1", "lib", null);
+		unknown.setReleaseDateFromTimestamp(0);
+		unknown.setLatestReleaseDateFromTimestamp(epochMilli(today));
+		aggregator.record(recent);
+		aggregator.record(older);
+		aggregator.record(unknown);
+
+		assertEquals(row("product", "lib", "3,1,0,0,0,0", null, null, "200", "150"), find("lib"));
+	}
+
+	@Test
+	void countsUnresolvedRepositoriesApartFromDependencies() throws IOException {
+		aggregator.record(Dependency.unresolved("/r3"));
+
+		assertEquals(row("repository", "/r3", "0,0,0,0,0,1", null, null, "", ""), find("/r3"));
+	}
+
+	@Test
+	void sortsByNextUpcomingEOL() throws IOException {
+		aggregator.record(dependency("/r1", "org.springframework:spring-aop:5.3.9", "spring", today.minusDays(400)));
+		aggregator.record(dependency("/r1", "org.apache.logging.log4j:log4j-core:2.17.1", "log4j", today.plusDays(30)));
+		aggregator.record(dependency("/r1", "com.fasterxml:jackson:2.15.2", "jackson", today.plusDays(10)));
+		aggregator.record(dependency("/r1", "com.fasterxml:jackson:2.14.0", "jackson", today.minusDays(5)));
+
+		List<String> products = report().stream().filter(line -> line.startsWith("\"product\""))
+				.map(line -> line.split(",")[1]).collect(Collectors.toList());
+
+		assertEquals(List.of("\"jackson\"", "\"log4j\"", "\"spring\""), products);
+		assertEquals(row("product", "jackson", "2,1,1,1,0,0", today.minusDays(5), today.plusDays(10), "", ""),
+				find("jackson"));
+	}
+
+	private Dependency dependency(String repository, String lib, String product, LocalDate eolDate) {
+		Dependency dependency = new Dependency(lib, repository);
+		dependency.setProduct(product);
+		dependency.setEOLDate(eolDate);
+		return dependency;
+	}
+
+	private void released(Dependency dependency, LocalDate released, LocalDate latestReleased) {
+		dependency.setReleaseDateFromTimestamp(epochMilli(released));
+		dependency.setLatestReleaseDateFromTimestamp(epochMilli(latestReleased));
+	}
+
+	private long epochMilli(LocalDate date) {
+		return date.atStartOfDay(ZoneOffset.UTC).toInstant().toEpochMilli();
+	}
+
+	private String row(String scope, String key, String counts, LocalDate earliestEOL, LocalDate nextEOL,
+			String maxLag, String avgLag) {
+		String daysToNextEOL = nextEOL == null ? "" : String.valueOf(nextEOL.toEpochDay() - today.toEpochDay());
+		return String.format("\"%s\",\"%s\",%s,\"%s\",\"%s\",%s,%s,%s", scope, key, counts, earliestEOL, nextEOL,
+				daysToNextEOL, maxLag, avgLag);
+	}
+
+	private String find(String key) throws IOException {
+		return report().stream().filter(line -> line.split(",")[1].equals("\"" + key + "\"")).findFirst()
+				.orElse(null);
+	}
+
+	private List<String> report() throws IOException {
+		Path report = workDir.resolve("eol_risk_summary.csv");
+		aggregator.saveToCSV(report.toString());
+
+		List<String> lines = Files.readAllLines(report);
+		return lines.subList(1, lines.size());
+	}
+}